@@ -22,6 +22,12 @@ public class TodoController {
         return todoService.getAllTodos();
     }
 
+    // Get the most urgent pending todos, by priority and then due date
+    @GetMapping("/upcoming")
+    public List<Todo> getUpcomingTodos(@RequestParam(defaultValue = "10") int limit) {
+        return todoService.getUpcomingTodos(limit);
+    }
+
     // Create a new todo
     @PostMapping
     public Todo createTodo(@RequestBody Todo todo) {
@@ -0,0 +1,59 @@
+package com.nk.todolist.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Opt-in per-request diagnostics, enabled with todolist.diagnostics.enabled=true
+ */
+@Configuration
+@ConditionalOnProperty(name = "todolist.diagnostics.enabled", havingValue = "true")
+public class DiagnosticsConfig {
+
+    @Bean
+    public DiagnosticsRegistry diagnosticsRegistry(@Value("${todolist.diagnostics.history-size:100}") int historySize) {
+        return new DiagnosticsRegistry(historySize);
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestDiagnosticsFilter> requestDiagnosticsFilter(
+            DiagnosticsRegistry registry,
+            @Value("${todolist.diagnostics.slow-request-threshold-ms:200}") long slowRequestThresholdMillis) {
+        FilterRegistrationBean<RequestDiagnosticsFilter> registration =
+                new FilterRegistrationBean<>(new RequestDiagnosticsFilter(registry, slowRequestThresholdMillis));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+
+    // Hook the SQL counters into Hibernate and turn on its global statistics,
+    // without the per-session metrics block Hibernate otherwise logs when statistics are on
+    @Bean
+    public HibernatePropertiesCustomizer diagnosticsHibernatePropertiesCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new DiagnosticsStatementInspector());
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, DiagnosticsSessionEventListener.class.getName());
+            properties.put(AvailableSettings.GENERATE_STATISTICS, "true");
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, "false");
+        };
+    }
+
+    // Count entity loads for every entity type, without the entities knowing about diagnostics
+    @Bean
+    public DiagnosticsPostLoadListener diagnosticsPostLoadListener(EntityManagerFactory entityManagerFactory) {
+        DiagnosticsPostLoadListener listener = new DiagnosticsPostLoadListener();
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_LOAD, listener);
+        return listener;
+    }
+}
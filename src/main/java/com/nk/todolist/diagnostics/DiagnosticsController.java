@@ -0,0 +1,59 @@
+package com.nk.todolist.diagnostics;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/diagnostics")
+@ConditionalOnProperty(name = "todolist.diagnostics.enabled", havingValue = "true")
+public class DiagnosticsController {
+
+    @Autowired
+    private DiagnosticsRegistry diagnosticsRegistry;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Hibernate totals since startup plus the most recent /api requests
+    @GetMapping
+    public Map<String, Object> getDiagnostics() {
+        Map<String, Object> diagnostics = new LinkedHashMap<>();
+        diagnostics.put("hibernate", hibernateStatistics());
+        diagnostics.put("recentRequests", diagnosticsRegistry.getRecent());
+        return diagnostics;
+    }
+
+    private Map<String, Object> hibernateStatistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("sessionOpenCount", statistics.getSessionOpenCount());
+        values.put("transactionCount", statistics.getTransactionCount());
+        values.put("prepareStatementCount", statistics.getPrepareStatementCount());
+        values.put("queryExecutionCount", statistics.getQueryExecutionCount());
+        values.put("queryExecutionMaxTime", statistics.getQueryExecutionMaxTime());
+        values.put("queryExecutionMaxTimeQueryString", statistics.getQueryExecutionMaxTimeQueryString());
+        values.put("entityLoadCount", statistics.getEntityLoadCount());
+        values.put("entityFetchCount", statistics.getEntityFetchCount());
+        values.put("entityInsertCount", statistics.getEntityInsertCount());
+        values.put("entityUpdateCount", statistics.getEntityUpdateCount());
+        values.put("entityDeleteCount", statistics.getEntityDeleteCount());
+        values.put("flushCount", statistics.getFlushCount());
+        values.put("secondLevelCacheHitCount", statistics.getSecondLevelCacheHitCount());
+        values.put("secondLevelCacheMissCount", statistics.getSecondLevelCacheMissCount());
+        values.put("secondLevelCachePutCount", statistics.getSecondLevelCachePutCount());
+        values.put("queryCacheHitCount", statistics.getQueryCacheHitCount());
+        values.put("queryCacheMissCount", statistics.getQueryCacheMissCount());
+        values.put("queryCachePutCount", statistics.getQueryCachePutCount());
+        values.put("updateTimestampsCacheHitCount", statistics.getUpdateTimestampsCacheHitCount());
+        return values;
+    }
+}
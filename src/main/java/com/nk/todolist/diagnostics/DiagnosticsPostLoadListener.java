@@ -0,0 +1,20 @@
+package com.nk.todolist.diagnostics;
+
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * Counts entities loaded for the current request, whether read from the
+ * database or assembled from the second-level cache.
+ * Registered with Hibernate by DiagnosticsConfig, so it only exists in diagnostics mode.
+ */
+public class DiagnosticsPostLoadListener implements PostLoadEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.entityLoaded();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.nk.todolist.diagnostics;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Keeps the diagnostics of the most recent requests for the /diagnostics endpoint
+ */
+public class DiagnosticsRegistry {
+
+    private final int capacity;
+    private final Deque<RequestDiagnostics> recent;
+
+    public DiagnosticsRegistry(int capacity) {
+        this.capacity = capacity;
+        this.recent = new ArrayDeque<>(capacity);
+    }
+
+    public synchronized void record(RequestDiagnostics diagnostics) {
+        if (capacity <= 0) {
+            return;
+        }
+        if (recent.size() == capacity) {
+            recent.removeLast();
+        }
+        recent.addFirst(diagnostics);
+    }
+
+    /**
+     * Get the recorded requests
+     * @return Most recent request first
+     */
+    public synchronized List<RequestDiagnostics> getRecent() {
+        return new ArrayList<>(recent);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nk.todolist.diagnostics;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Times JDBC statement execution and flushes, and counts second-level cache
+ * hits and misses for the current request.
+ * Hibernate creates one instance per session from the class name.
+ */
+public class DiagnosticsSessionEventListener extends BaseSessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.statementStarted();
+        }
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.statementEnded();
+        }
+    }
+
+    @Override
+    public void cacheGetEnd(boolean hit) {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.cacheAccessed(hit);
+        }
+    }
+
+    @Override
+    public void flushStart() {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.flushStarted();
+        }
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.flushEnded();
+        }
+    }
+}
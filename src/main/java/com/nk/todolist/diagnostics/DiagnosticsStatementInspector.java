@@ -0,0 +1,19 @@
+package com.nk.todolist.diagnostics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares for the current request.
+ * The SQL is returned unchanged.
+ */
+public class DiagnosticsStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestDiagnostics diagnostics = RequestDiagnostics.current();
+        if (diagnostics != null) {
+            diagnostics.statementPrepared(sql);
+        }
+        return sql;
+    }
+}
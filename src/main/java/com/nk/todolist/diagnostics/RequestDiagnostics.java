@@ -0,0 +1,149 @@
+package com.nk.todolist.diagnostics;
+
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * SQL, entity, second-level cache and allocation counters collected for a single HTTP request.
+ * The instance for the current request is bound to the request thread, so the
+ * Hibernate hooks can record into it without any locking.
+ */
+public class RequestDiagnostics {
+
+    private static final ThreadLocal<RequestDiagnostics> CURRENT = new ThreadLocal<>();
+
+    @Getter
+    private final String method;
+    @Getter
+    private final String uri;
+    @Getter
+    private int status;
+    @Getter
+    private long durationNanos;
+    @Getter
+    private long allocatedBytes = -1;
+
+    @Getter
+    private int statementCount;
+    @Getter
+    private final Map<String, Integer> statementsByType = new LinkedHashMap<>();
+    private long statementNanos;
+    private long statementStart;
+
+    @Getter
+    private int entityLoads;
+
+    @Getter
+    private int cacheHits;
+    @Getter
+    private int cacheMisses;
+
+    @Getter
+    private int flushCount;
+    private long flushNanos;
+    private long flushStart;
+
+    RequestDiagnostics(String method, String uri) {
+        this.method = method;
+        this.uri = uri;
+    }
+
+    /**
+     * Bind a new diagnostics context to the current thread
+     * @param method The HTTP method of the request
+     * @param uri The request URI
+     * @return The bound context
+     */
+    static RequestDiagnostics start(String method, String uri) {
+        RequestDiagnostics diagnostics = new RequestDiagnostics(method, uri);
+        CURRENT.set(diagnostics);
+        return diagnostics;
+    }
+
+    /**
+     * Get the context of the request being served on this thread
+     * @return The context, or null when diagnostics are not being collected
+     */
+    static RequestDiagnostics current() {
+        return CURRENT.get();
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    void complete(int status, long durationNanos, long allocatedBytes) {
+        this.status = status;
+        this.durationNanos = durationNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    void statementPrepared(String sql) {
+        statementCount++;
+        statementsByType.merge(statementType(sql), 1, Integer::sum);
+    }
+
+    void statementStarted() {
+        statementStart = System.nanoTime();
+    }
+
+    void statementEnded() {
+        statementNanos += System.nanoTime() - statementStart;
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void cacheAccessed(boolean hit) {
+        if (hit) {
+            cacheHits++;
+        } else {
+            cacheMisses++;
+        }
+    }
+
+    void flushStarted() {
+        flushStart = System.nanoTime();
+    }
+
+    void flushEnded() {
+        flushCount++;
+        flushNanos += System.nanoTime() - flushStart;
+    }
+
+    public double getDurationMillis() {
+        return durationNanos / 1_000_000d;
+    }
+
+    public double getStatementMillis() {
+        return statementNanos / 1_000_000d;
+    }
+
+    public double getFlushMillis() {
+        return flushNanos / 1_000_000d;
+    }
+
+    /**
+     * One-line summary used when logging slow requests
+     * @return The summary, including the per statement type breakdown
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "%s %s -> %d in %.2fms: %d SQL statements %s in %.2fms, %d entity loads, %d/%d cache hits/misses, %d flushes in %.2fms, %d bytes allocated",
+                method, uri, status, getDurationMillis(), statementCount, statementsByType, getStatementMillis(),
+                entityLoads, cacheHits, cacheMisses, flushCount, getFlushMillis(), allocatedBytes);
+    }
+
+    private static String statementType(String sql) {
+        String trimmed = sql.stripLeading();
+        int end = 0;
+        while (end < trimmed.length() && Character.isLetter(trimmed.charAt(end))) {
+            end++;
+        }
+        return end == 0 ? "other" : trimmed.substring(0, end).toLowerCase(Locale.ROOT);
+    }
+}
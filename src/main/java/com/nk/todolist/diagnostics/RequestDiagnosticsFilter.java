@@ -0,0 +1,91 @@
+package com.nk.todolist.diagnostics;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Collects per-request SQL, entity and allocation counters, reports them in
+ * X-Diagnostics-* response headers and logs requests slower than the threshold.
+ * The response body is buffered so the headers can be added after the handler ran.
+ */
+public class RequestDiagnosticsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestDiagnosticsFilter.class);
+
+    private final DiagnosticsRegistry registry;
+    private final long slowRequestThresholdMillis;
+    private final com.sun.management.ThreadMXBean threadMXBean;
+
+    public RequestDiagnosticsFilter(DiagnosticsRegistry registry, long slowRequestThresholdMillis) {
+        this.registry = registry;
+        this.slowRequestThresholdMillis = slowRequestThresholdMillis;
+        this.threadMXBean = allocationTrackingThreadMXBean();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        RequestDiagnostics diagnostics = RequestDiagnostics.start(request.getMethod(), request.getRequestURI());
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, responseWrapper);
+        } finally {
+            long duration = System.nanoTime() - start;
+            long allocated = allocatedBefore < 0 ? -1 : allocatedBytes() - allocatedBefore;
+            RequestDiagnostics.clear();
+            diagnostics.complete(responseWrapper.getStatus(), duration, allocated);
+
+            addHeaders(responseWrapper, diagnostics);
+            responseWrapper.copyBodyToResponse();
+            registry.record(diagnostics);
+
+            if (diagnostics.getDurationMillis() >= slowRequestThresholdMillis) {
+                log.warn("Slow request: {}", diagnostics.summary());
+            } else {
+                log.debug("Request: {}", diagnostics.summary());
+            }
+        }
+    }
+
+    private void addHeaders(HttpServletResponse response, RequestDiagnostics diagnostics) {
+        response.setHeader("X-Diagnostics-Duration-Ms", millis(diagnostics.getDurationMillis()));
+        response.setHeader("X-Diagnostics-Sql-Statements", String.valueOf(diagnostics.getStatementCount()));
+        response.setHeader("X-Diagnostics-Sql-Time-Ms", millis(diagnostics.getStatementMillis()));
+        response.setHeader("X-Diagnostics-Entity-Loads", String.valueOf(diagnostics.getEntityLoads()));
+        response.setHeader("X-Diagnostics-Cache-Hits", String.valueOf(diagnostics.getCacheHits()));
+        response.setHeader("X-Diagnostics-Cache-Misses", String.valueOf(diagnostics.getCacheMisses()));
+        response.setHeader("X-Diagnostics-Flushes", String.valueOf(diagnostics.getFlushCount()));
+        response.setHeader("X-Diagnostics-Flush-Time-Ms", millis(diagnostics.getFlushMillis()));
+        response.setHeader("X-Diagnostics-Allocated-Bytes", String.valueOf(diagnostics.getAllocatedBytes()));
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    // Returns -1 when the JVM cannot measure per-thread allocations
+    private long allocatedBytes() {
+        return threadMXBean == null ? -1 : threadMXBean.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean allocationTrackingThreadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+            return bean;
+        }
+        return null;
+    }
+}
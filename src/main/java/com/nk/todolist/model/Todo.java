@@ -1,12 +1,34 @@
 package com.nk.todolist.model;
 
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.QueryCacheLayout;
+
+import java.time.LocalDate;
 
 @Entity
+@Table(indexes = {
+        // Covers TodoRepository.findPendingUrgencies, which loads the upcoming todo index
+        @Index(name = "idx_todo_upcoming", columnList = "completed, priority, due_date, id"),
+        // Serves the overdue sweeper's batch lookups
+        @Index(name = "idx_todo_overdue", columnList = "completed, overdue, due_date")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
+// Cached query results hold the full rows rather than ids, so a hit on the unbounded findAll
+// never falls back to one select per todo evicted from the "todo" region. Pinned here because
+// hibernate.cache.query_cache_layout may be set to SHALLOW globally
+@QueryCacheLayout(layout = CacheLayout.FULL)
 @Data
 @NoArgsConstructor
 public class Todo {
@@ -19,6 +41,15 @@ public class Todo {
 
     private boolean completed;
 
+    // Higher values are more urgent
+    private int priority;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    // Set when a pending todo passes its due date
+    private boolean overdue;
+
     public Todo(String title, boolean completed) {
         this.title = title;
         this.completed = completed;
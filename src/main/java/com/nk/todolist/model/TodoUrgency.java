@@ -0,0 +1,13 @@
+package com.nk.todolist.model;
+
+import java.time.LocalDate;
+
+/**
+ * The fields that decide how urgent a pending todo is
+ */
+public record TodoUrgency(Long id, int priority, LocalDate dueDate) {
+
+    public static TodoUrgency of(Todo todo) {
+        return new TodoUrgency(todo.getId(), todo.getPriority(), todo.getDueDate());
+    }
+}
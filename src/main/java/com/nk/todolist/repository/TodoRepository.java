@@ -1,11 +1,47 @@
 package com.nk.todolist.repository;
 
 import com.nk.todolist.model.Todo;
+import com.nk.todolist.model.TodoUrgency;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
     // Spring Data JPA will automatically implement basic CRUD operations
     // We can add custom query methods here if needed
-}
\ No newline at end of file
+
+    // Served from the query cache; Hibernate invalidates it on any write to the todo table,
+    // including bulk JPQL updates
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "todo-queries")
+    })
+    List<Todo> findAll();
+
+    // Read entirely from the idx_todo_upcoming index, without touching the table rows
+    @Query("select new com.nk.todolist.model.TodoUrgency(t.id, t.priority, t.dueDate) from Todo t where t.completed = false")
+    List<TodoUrgency> findPendingUrgencies();
+
+    // Ordered as in idx_todo_overdue (which ends in the primary key), so each batch is an index range scan without a sort
+    @Query("select t.id from Todo t where t.completed = false and t.overdue = false and t.dueDate < :today order by t.dueDate, t.id")
+    List<Long> findNewlyOverdueIds(@Param("today") LocalDate today, Pageable pageable);
+
+    // Bulk JPQL update, so Hibernate also invalidates the cached todos and query results
+    @Transactional
+    @Modifying
+    @Query("update Todo t set t.overdue = true where t.id in :ids and t.completed = false")
+    int markOverdue(@Param("ids") Collection<Long> ids);
+}
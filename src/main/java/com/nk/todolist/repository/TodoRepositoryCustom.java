@@ -0,0 +1,19 @@
+package com.nk.todolist.repository;
+
+import com.nk.todolist.model.Todo;
+
+import java.util.List;
+
+/**
+ * TodoRepository methods implemented by hand, in TodoRepositoryCustomImpl
+ */
+public interface TodoRepositoryCustom {
+
+    /**
+     * Load todos by ID, taking the ones in the second-level cache from there and
+     * fetching only the rest with a single query. findAllById always queries the database.
+     * @param ids IDs of the todos
+     * @return The todos that exist, in the order of the IDs
+     */
+    List<Todo> loadAllById(List<Long> ids);
+}
@@ -0,0 +1,31 @@
+package com.nk.todolist.repository;
+
+import com.nk.todolist.model.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Objects;
+
+class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Todo> loadAllById(List<Long> ids) {
+        return entityManager.unwrap(Session.class)
+                .byMultipleIds(Todo.class)
+                // The second-level cache is only checked when a cache mode is set on the load itself
+                .with(CacheMode.NORMAL)
+                .multiLoad(ids)
+                .stream()
+                // Missing todos come back as null entries
+                .filter(Objects::nonNull)
+                .toList();
+    }
+}
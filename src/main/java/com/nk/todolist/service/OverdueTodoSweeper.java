@@ -0,0 +1,58 @@
+package com.nk.todolist.service;
+
+import com.nk.todolist.repository.TodoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Periodically flags pending todos whose due date has passed.
+ * Works in batches of IDs so each bulk update stays short and holds few row locks.
+ */
+@Component
+@ConditionalOnProperty(name = "todolist.overdue-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class OverdueTodoSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(OverdueTodoSweeper.class);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Value("${todolist.overdue-sweeper.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${todolist.overdue-sweeper.interval-ms:60000}",
+            fixedDelayString = "${todolist.overdue-sweeper.interval-ms:60000}")
+    public void sweep() {
+        int marked = markOverdue(LocalDate.now());
+        if (marked > 0) {
+            log.info("Marked {} todos as overdue", marked);
+        }
+    }
+
+    /**
+     * Flag all pending todos due before the given day
+     * @param today The current day
+     * @return Number of todos marked overdue
+     */
+    public int markOverdue(LocalDate today) {
+        int marked = 0;
+        List<Long> ids;
+        do {
+            // Marked todos no longer match the query, so the first page is always the next batch
+            ids = todoRepository.findNewlyOverdueIds(today, PageRequest.of(0, batchSize));
+            if (!ids.isEmpty()) {
+                marked += todoRepository.markOverdue(ids);
+            }
+        } while (ids.size() == batchSize);
+        return marked;
+    }
+}
@@ -16,6 +16,13 @@ public interface TodoService {
      */
     List<Todo> getAllTodos();
     
+    /**
+     * Get the most urgent pending todos, by priority and then due date
+     * @param limit Maximum number of todos to return
+     * @return List of pending todos, most urgent first
+     */
+    List<Todo> getUpcomingTodos(int limit);
+    
     /**
      * Create a new todo
      * @param todo The todo to create
@@ -0,0 +1,140 @@
+package com.nk.todolist.service;
+
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.model.TodoUrgency;
+import com.nk.todolist.repository.TodoRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * In-memory ordering of all pending todos by urgency: highest priority first,
+ * then earliest due date (todos without one last), then id.
+ * Loaded from the database at startup, kept current by TodoService after every
+ * committed write, and reloaded periodically by UpcomingTodoIndexReloader to pick up
+ * writes made elsewhere. With todolist.upcoming-index.reload.enabled=false such writes
+ * are only picked up on restart, apart from stale entries the service drops when serving.
+ * All access goes through the instance lock, so readers never see a half-applied change.
+ */
+@Component
+public class UpcomingTodoIndex {
+
+    static final Comparator<TodoUrgency> URGENCY_ORDER = Comparator
+            .comparingInt(TodoUrgency::priority).reversed()
+            .thenComparing(TodoUrgency::dueDate, Comparator.nullsLast(Comparator.<LocalDate>naturalOrder()))
+            .thenComparing(TodoUrgency::id);
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    private NavigableSet<TodoUrgency> pending = new TreeSet<>(URGENCY_ORDER);
+    private Map<Long, TodoUrgency> byId = new HashMap<>();
+
+    // Changes applied while a reload reads the database, replayed on top of its snapshot
+    private List<Runnable> changesDuringReload;
+
+    /**
+     * Replace the index contents with the pending todos currently in the database
+     */
+    @PostConstruct
+    public void reload() {
+        synchronized (this) {
+            changesDuringReload = new ArrayList<>();
+        }
+        try {
+            rebuild(todoRepository.findPendingUrgencies());
+        } finally {
+            synchronized (this) {
+                changesDuringReload = null;
+            }
+        }
+    }
+
+    /**
+     * Replace the index contents
+     * @param urgencies All pending todos
+     */
+    public void rebuild(Collection<TodoUrgency> urgencies) {
+        // Sort outside the lock, readers keep seeing the previous contents until the swap
+        NavigableSet<TodoUrgency> rebuiltPending = new TreeSet<>(URGENCY_ORDER);
+        Map<Long, TodoUrgency> rebuiltById = new HashMap<>();
+        for (TodoUrgency urgency : urgencies) {
+            rebuiltPending.add(urgency);
+            rebuiltById.put(urgency.id(), urgency);
+        }
+        synchronized (this) {
+            pending = rebuiltPending;
+            byId = rebuiltById;
+            if (changesDuringReload != null) {
+                // Changes committed after the snapshot was read are missing from it
+                changesDuringReload.forEach(Runnable::run);
+                changesDuringReload.clear();
+            }
+        }
+    }
+
+    /**
+     * Record a created or updated todo; completed todos are dropped from the index
+     * @param todo The saved todo
+     */
+    public synchronized void update(Todo todo) {
+        TodoUrgency urgency = todo.isCompleted() ? null : TodoUrgency.of(todo);
+        Long id = todo.getId();
+        apply(() -> {
+            drop(id);
+            if (urgency != null) {
+                add(urgency);
+            }
+        });
+    }
+
+    /**
+     * Drop a todo from the index
+     * @param id The ID of the todo
+     */
+    public synchronized void remove(Long id) {
+        apply(() -> drop(id));
+    }
+
+    /**
+     * Get the most urgent pending todos
+     * @param limit Maximum number of IDs to return
+     * @return Todo IDs, most urgent first
+     */
+    public synchronized List<Long> top(int limit) {
+        return pending.stream().limit(limit).map(TodoUrgency::id).toList();
+    }
+
+    public synchronized int size() {
+        return byId.size();
+    }
+
+    private void apply(Runnable change) {
+        change.run();
+        if (changesDuringReload != null) {
+            changesDuringReload.add(change);
+        }
+    }
+
+    private void drop(Long id) {
+        TodoUrgency previous = byId.remove(id);
+        if (previous != null) {
+            pending.remove(previous);
+        }
+    }
+
+    private void add(TodoUrgency urgency) {
+        byId.put(urgency.id(), urgency);
+        pending.add(urgency);
+    }
+}
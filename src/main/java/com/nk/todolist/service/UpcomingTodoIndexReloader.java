@@ -0,0 +1,25 @@
+package com.nk.todolist.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the upcoming todo index from the database, repairing any drift
+ * from writes that did not go through TodoService: bulk JPQL, repository deleteAll,
+ * or other application instances sharing the database.
+ */
+@Component
+@ConditionalOnProperty(name = "todolist.upcoming-index.reload.enabled", havingValue = "true", matchIfMissing = true)
+public class UpcomingTodoIndexReloader {
+
+    @Autowired
+    private UpcomingTodoIndex upcomingTodoIndex;
+
+    @Scheduled(initialDelayString = "${todolist.upcoming-index.reload.interval-ms:60000}",
+            fixedDelayString = "${todolist.upcoming-index.reload.interval-ms:60000}")
+    public void reload() {
+        upcomingTodoIndex.reload();
+    }
+}
@@ -3,11 +3,19 @@ package com.nk.todolist.service.impl;
 import com.nk.todolist.model.Todo;
 import com.nk.todolist.repository.TodoRepository;
 import com.nk.todolist.service.TodoService;
+import com.nk.todolist.service.UpcomingTodoIndex;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Implementation of the TodoService interface
@@ -15,19 +23,55 @@ import java.util.List;
 @Service
 public class TodoServiceImpl implements TodoService {
 
+    // Upper bound for the "limit" of getUpcomingTodos
+    static final int MAX_UPCOMING = 100;
+
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private UpcomingTodoIndex upcomingTodoIndex;
+
     @Override
     public List<Todo> getAllTodos() {
         return todoRepository.findAll();
     }
 
     @Override
+    public List<Todo> getUpcomingTodos(int limit) {
+        int capped = Math.max(0, Math.min(limit, MAX_UPCOMING));
+        while (true) {
+            List<Long> ids = upcomingTodoIndex.top(capped);
+            if (ids.isEmpty()) {
+                return List.of();
+            }
+            // Cached todos come from the second-level cache, the rest from one primary key lookup
+            Map<Long, Todo> todos = todoRepository.loadAllById(ids).stream()
+                    .collect(Collectors.toMap(Todo::getId, Function.identity()));
+
+            // Evict entries for todos deleted or completed behind the index's back, then fetch again
+            // so the caller still gets "limit" todos; each round removes at least one entry
+            List<Long> stale = ids.stream()
+                    .filter(id -> !todos.containsKey(id) || todos.get(id).isCompleted())
+                    .toList();
+            if (stale.isEmpty()) {
+                return ids.stream().map(todos::get).toList();
+            }
+            stale.forEach(upcomingTodoIndex::remove);
+        }
+    }
+
+    @Override
+    @Transactional
     public Todo createTodo(Todo todo) {
         // Create a new Todo object to ensure we're not updating an existing record
         Todo newTodo = new Todo(todo.getTitle(), todo.isCompleted());
-        return todoRepository.save(newTodo);
+        newTodo.setPriority(todo.getPriority());
+        newTodo.setDueDate(todo.getDueDate());
+        newTodo.setOverdue(isOverdue(newTodo));
+        Todo savedTodo = todoRepository.save(newTodo);
+        afterCommit(() -> upcomingTodoIndex.update(savedTodo));
+        return savedTodo;
     }
 
     @Override
@@ -38,27 +82,53 @@ public class TodoServiceImpl implements TodoService {
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Todo> updateTodo(Long id, Todo todoDetails) {
         return todoRepository.findById(id)
                 .map(existingTodo -> {
                     // Update the todo fields
                     existingTodo.setTitle(todoDetails.getTitle());
                     existingTodo.setCompleted(todoDetails.isCompleted());
+                    existingTodo.setPriority(todoDetails.getPriority());
+                    existingTodo.setDueDate(todoDetails.getDueDate());
+                    existingTodo.setOverdue(isOverdue(existingTodo));
 
                     // Save the updated todo
                     Todo updatedTodo = todoRepository.save(existingTodo);
+                    afterCommit(() -> upcomingTodoIndex.update(updatedTodo));
                     return ResponseEntity.ok(updatedTodo);
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
 
     @Override
+    @Transactional
     public ResponseEntity<?> deleteTodo(Long id) {
         return todoRepository.findById(id)
                 .map(todo -> {
                     todoRepository.delete(todo);
+                    afterCommit(() -> upcomingTodoIndex.remove(id));
                     return ResponseEntity.ok().build();
                 })
                 .orElse(ResponseEntity.notFound().build());
     }
+
+    // The sweeper catches todos that become overdue later; this covers ones saved with a past due date
+    private boolean isOverdue(Todo todo) {
+        return !todo.isCompleted() && todo.getDueDate() != null && todo.getDueDate().isBefore(LocalDate.now());
+    }
+
+    // Apply index changes only once the write is committed, so a rolled back write never reaches the index
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 }
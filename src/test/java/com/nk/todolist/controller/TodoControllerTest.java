@@ -13,6 +13,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -84,6 +85,34 @@ public class TodoControllerTest {
         verify(todoService, times(1)).getAllTodos();
     }
 
+    @Test
+    void shouldGetUpcomingTodos() throws Exception {
+        todo1.setPriority(3);
+        todo1.setDueDate(LocalDate.of(2025, 7, 1));
+        when(todoService.getUpcomingTodos(5)).thenReturn(Arrays.asList(todo1));
+
+        mockMvc.perform(get("/api/todos/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(jsonPath("$[0].id", is(1)))
+                .andExpect(jsonPath("$[0].priority", is(3)))
+                .andExpect(jsonPath("$[0].dueDate", is("2025-07-01")));
+
+        verify(todoService, times(1)).getUpcomingTodos(5);
+    }
+
+    @Test
+    void shouldGetUpcomingTodosWithDefaultLimit() throws Exception {
+        when(todoService.getUpcomingTodos(10)).thenReturn(todoList);
+
+        mockMvc.perform(get("/api/todos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)));
+
+        verify(todoService, times(1)).getUpcomingTodos(10);
+        verify(todoService, never()).getTodoById(any());
+    }
+
     @Test
     void shouldCreateTodo() throws Exception {
         Todo newTodo = new Todo("New task", false);
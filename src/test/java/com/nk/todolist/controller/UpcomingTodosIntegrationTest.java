@@ -0,0 +1,138 @@
+package com.nk.todolist.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.repository.TodoRepository;
+import com.nk.todolist.service.UpcomingTodoIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class UpcomingTodosIntegrationTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private UpcomingTodoIndex upcomingTodoIndex;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @BeforeEach
+    void setUp() {
+        // Other tests share the database and write through the repository directly
+        todoRepository.deleteAll();
+        upcomingTodoIndex.reload();
+    }
+
+    @Test
+    void upcoming_shouldOrderByPriorityThenDueDate() throws Exception {
+        long later = create("Renew passport", 1, TODAY.plusDays(30));
+        long undated = create("Call the bank", 3, null);
+        long urgent = create("File taxes", 3, TODAY.plusDays(2));
+        long sooner = create("Book dentist", 1, TODAY.plusDays(7));
+
+        mockMvc.perform(get("/api/todos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(ids(urgent, undated, sooner, later))));
+
+        mockMvc.perform(get("/api/todos/upcoming").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(ids(urgent, undated))));
+    }
+
+    @Test
+    void upcoming_shouldDropCompletedTodo() throws Exception {
+        long first = create("File taxes", 3, TODAY.plusDays(2));
+        long second = create("Book dentist", 1, TODAY.plusDays(7));
+
+        Todo completed = new Todo("File taxes", true);
+        completed.setPriority(3);
+        mockMvc.perform(put("/api/todos/" + first)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(completed)))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/todos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(ids(second))));
+        // Removed by the service after commit, not just filtered out when serving the request
+        assertEquals(List.of(second), upcomingTodoIndex.top(10));
+    }
+
+    @Test
+    void upcoming_shouldDropDeletedTodo() throws Exception {
+        long first = create("File taxes", 3, TODAY.plusDays(2));
+        long second = create("Book dentist", 1, TODAY.plusDays(7));
+
+        mockMvc.perform(delete("/api/todos/" + first))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/todos/upcoming"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", contains(ids(second))));
+        // Removed by the service after commit, not just filtered out when serving the request
+        assertEquals(List.of(second), upcomingTodoIndex.top(10));
+    }
+
+    @Test
+    void index_shouldLoadPendingTodosFromDatabaseAtStartup() {
+        // Given
+        Todo done = new Todo("Finish homework", true);
+        Todo low = new Todo("Water plants", false);
+        Todo high = new Todo("File taxes", false);
+        high.setPriority(5);
+        todoRepository.saveAll(List.of(done, low, high));
+
+        // When: a new index goes through the same @PostConstruct load as at application startup
+        UpcomingTodoIndex loaded = beanFactory.createBean(UpcomingTodoIndex.class);
+
+        // Then
+        assertEquals(List.of(high.getId(), low.getId()), loaded.top(10));
+    }
+
+    private long create(String title, int priority, LocalDate dueDate) throws Exception {
+        Todo todo = new Todo(title, false);
+        todo.setPriority(priority);
+        todo.setDueDate(dueDate);
+        String response = mockMvc.perform(post("/api/todos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(todo)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, Todo.class).getId();
+    }
+
+    // jsonPath reads ids back as Integer
+    private static Integer[] ids(long... ids) {
+        Integer[] values = new Integer[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            values[i] = (int) ids[i];
+        }
+        return values;
+    }
+}
@@ -0,0 +1,57 @@
+package com.nk.todolist.diagnostics;
+
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "todolist.diagnostics.enabled=true")
+@ActiveProfiles("cache")
+@AutoConfigureMockMvc
+class RequestDiagnosticsCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Todo todo;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        todo = todoRepository.save(new Todo("Buy groceries", false));
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void getTodoById_twice_shouldReportCacheMissThenHit() throws Exception {
+        // First request misses the second-level cache and reads the row
+        mockMvc.perform(get("/api/todos/" + todo.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Diagnostics-Sql-Statements", "1"))
+                .andExpect(header().string("X-Diagnostics-Cache-Hits", "0"))
+                .andExpect(header().string("X-Diagnostics-Cache-Misses", "1"));
+
+        // Second request is served from the cache without any SQL
+        mockMvc.perform(get("/api/todos/" + todo.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Diagnostics-Sql-Statements", "0"))
+                .andExpect(header().string("X-Diagnostics-Cache-Hits", "1"))
+                .andExpect(header().string("X-Diagnostics-Cache-Misses", "0"))
+                .andExpect(header().string("X-Diagnostics-Entity-Loads", "1"));
+    }
+}
@@ -0,0 +1,58 @@
+package com.nk.todolist.diagnostics;
+
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = "todolist.diagnostics.enabled=true")
+@AutoConfigureMockMvc
+class RequestDiagnosticsFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        todoRepository.saveAll(List.of(new Todo("Buy groceries", false), new Todo("Finish homework", true)));
+    }
+
+    @Test
+    void getAllTodos_shouldReportDiagnosticsHeaders() throws Exception {
+        mockMvc.perform(get("/api/todos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(header().string("X-Diagnostics-Sql-Statements", "1"))
+                .andExpect(header().string("X-Diagnostics-Entity-Loads", "2"))
+                .andExpect(header().exists("X-Diagnostics-Sql-Time-Ms"))
+                .andExpect(header().exists("X-Diagnostics-Flush-Time-Ms"))
+                .andExpect(header().exists("X-Diagnostics-Allocated-Bytes"))
+                .andExpect(header().exists("X-Diagnostics-Duration-Ms"));
+    }
+
+    @Test
+    void diagnosticsEndpoint_shouldListRecentRequests() throws Exception {
+        mockMvc.perform(get("/api/todos"));
+
+        mockMvc.perform(get("/diagnostics"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.hibernate.prepareStatementCount", greaterThan(0)))
+                .andExpect(jsonPath("$.recentRequests[0].uri", is("/api/todos")))
+                .andExpect(jsonPath("$.recentRequests[0].statementsByType.select", is(1)))
+                .andExpect(jsonPath("$.recentRequests[0].entityLoads", is(2)));
+    }
+}
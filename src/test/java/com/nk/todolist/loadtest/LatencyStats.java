@@ -0,0 +1,46 @@
+package com.nk.todolist.loadtest;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Latency summary for one operation type (or all of them) of a load test run
+ */
+record LatencyStats(long count, long errors, double throughputPerSecond,
+                    double p50Millis, double p95Millis, double p99Millis, double maxMillis) {
+
+    /**
+     * Build the summary from raw samples
+     * @param latenciesNanos Latency of every request, in nanoseconds
+     * @param errors Number of requests that did not return a 2xx status
+     * @param elapsedNanos Wall-clock duration of the measured phase
+     * @return The computed statistics
+     */
+    static LatencyStats of(long[] latenciesNanos, long errors, long elapsedNanos) {
+        long[] sorted = latenciesNanos.clone();
+        Arrays.sort(sorted);
+        double throughput = elapsedNanos > 0 ? sorted.length * 1_000_000_000d / elapsedNanos : 0;
+        return new LatencyStats(sorted.length, errors, throughput,
+                percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99),
+                sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]));
+    }
+
+    // Nearest-rank percentile
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100d * sorted.length);
+        return toMillis(sorted[Math.max(0, rank - 1)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "count=%d errors=%d throughput=%.1f req/s p50=%.2fms p95=%.2fms p99=%.2fms max=%.2fms",
+                count, errors, throughputPerSecond, p50Millis, p95Millis, p99Millis, maxMillis);
+    }
+}
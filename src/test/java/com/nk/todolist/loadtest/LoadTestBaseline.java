@@ -0,0 +1,126 @@
+package com.nk.todolist.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Stored load test results that a new run is compared against.
+ * Result keys are {@code <operation>.<metric>}, e.g. {@code all.p95=12.5} or {@code get.throughput=900}.
+ * Latencies are in milliseconds and throughput in requests per second.
+ * The workload the results were measured with is stored under {@code settings.*}.
+ */
+class LoadTestBaseline {
+
+    private final Properties values;
+
+    private LoadTestBaseline(Properties values) {
+        this.values = values;
+    }
+
+    /**
+     * Load a baseline from a file path, falling back to the test classpath
+     * @param location File path or classpath resource of the baseline
+     * @return The baseline, empty if the location does not exist
+     */
+    static LoadTestBaseline load(String location) throws IOException {
+        Properties properties = new Properties();
+        Path path = Path.of(location);
+        if (Files.isRegularFile(path)) {
+            try (InputStream in = Files.newInputStream(path)) {
+                properties.load(in);
+            }
+        } else {
+            try (InputStream in = LoadTestBaseline.class.getClassLoader().getResourceAsStream(location)) {
+                if (in != null) {
+                    properties.load(in);
+                }
+            }
+        }
+        return new LoadTestBaseline(properties);
+    }
+
+    boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    /**
+     * Find the workload settings that differ between this baseline and a run
+     * @param settings The settings of the current run
+     * @return One message per differing setting, empty if the workloads match
+     */
+    List<String> settingsMismatches(LoadTestSettings settings) {
+        List<String> mismatches = new ArrayList<>();
+        settings.workload().forEach((key, value) -> {
+            String stored = values.getProperty(key);
+            if (!value.equals(stored)) {
+                mismatches.add(key + ": baseline " + stored + ", run " + value);
+            }
+        });
+        return mismatches;
+    }
+
+    /**
+     * Compare results against this baseline
+     * @param results Statistics per operation name
+     * @param tolerance Allowed relative drift, e.g. 0.25 for 25%
+     * @return One message per metric that regressed, empty if none did
+     */
+    List<String> regressions(Map<String, LatencyStats> results, double tolerance) {
+        List<String> regressions = new ArrayList<>();
+        results.forEach((operation, stats) -> {
+            checkMinimum(regressions, operation + ".throughput", stats.throughputPerSecond(), tolerance);
+            checkMaximum(regressions, operation + ".p50", stats.p50Millis(), tolerance);
+            checkMaximum(regressions, operation + ".p95", stats.p95Millis(), tolerance);
+            checkMaximum(regressions, operation + ".p99", stats.p99Millis(), tolerance);
+        });
+        return regressions;
+    }
+
+    private void checkMinimum(List<String> regressions, String key, double actual, double tolerance) {
+        String stored = values.getProperty(key);
+        if (stored != null && actual < Double.parseDouble(stored) * (1 - tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "%s: %.2f is below baseline %s", key, actual, stored));
+        }
+    }
+
+    private void checkMaximum(List<String> regressions, String key, double actual, double tolerance) {
+        String stored = values.getProperty(key);
+        if (stored != null && actual > Double.parseDouble(stored) * (1 + tolerance)) {
+            regressions.add(String.format(Locale.ROOT, "%s: %.2f is above baseline %s", key, actual, stored));
+        }
+    }
+
+    /**
+     * Write results in baseline format so a run can be promoted to the new baseline
+     * @param settings The settings the results were measured with
+     * @param results Statistics per operation name
+     * @param target File to write
+     */
+    static void write(LoadTestSettings settings, Map<String, LatencyStats> results, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try (Writer out = Files.newBufferedWriter(target)) {
+            out.write(String.format(Locale.ROOT, "# Recorded on %s %s, %d CPUs, %d MB max heap, Java %s (%s)%n",
+                    System.getProperty("os.name"), System.getProperty("os.arch"),
+                    Runtime.getRuntime().availableProcessors(), Runtime.getRuntime().maxMemory() / (1024 * 1024),
+                    System.getProperty("java.version"), System.getProperty("java.vm.name")));
+            for (Map.Entry<String, String> entry : settings.workload().entrySet()) {
+                out.write(entry.getKey() + "=" + entry.getValue() + System.lineSeparator());
+            }
+            for (Map.Entry<String, LatencyStats> entry : results.entrySet()) {
+                LatencyStats stats = entry.getValue();
+                out.write(String.format(Locale.ROOT, "%s.throughput=%.1f%n", entry.getKey(), stats.throughputPerSecond()));
+                out.write(String.format(Locale.ROOT, "%s.p50=%.2f%n", entry.getKey(), stats.p50Millis()));
+                out.write(String.format(Locale.ROOT, "%s.p95=%.2f%n", entry.getKey(), stats.p95Millis()));
+                out.write(String.format(Locale.ROOT, "%s.p99=%.2f%n", entry.getKey(), stats.p99Millis()));
+            }
+        }
+    }
+}
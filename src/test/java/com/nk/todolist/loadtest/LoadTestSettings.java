@@ -0,0 +1,70 @@
+package com.nk.todolist.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test parameters, read from system properties so a run can be tuned
+ * from the command line, e.g. {@code mvn test -Ploadtest -Dloadtest.concurrency=16}
+ */
+record LoadTestSettings(int concurrency,
+                        int datasetSize,
+                        int warmupRequests,
+                        int requests,
+                        long seed,
+                        int listWeight,
+                        int getWeight,
+                        int createWeight,
+                        int updateWeight,
+                        int deleteWeight,
+                        double tolerance,
+                        String baseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.getInteger("loadtest.concurrency", 8),
+                Integer.getInteger("loadtest.datasetSize", 500),
+                Integer.getInteger("loadtest.warmupRequests", 500),
+                Integer.getInteger("loadtest.requests", 5000),
+                Long.getLong("loadtest.seed", 42L),
+                Integer.getInteger("loadtest.weight.list", 10),
+                Integer.getInteger("loadtest.weight.get", 50),
+                Integer.getInteger("loadtest.weight.create", 15),
+                Integer.getInteger("loadtest.weight.update", 15),
+                Integer.getInteger("loadtest.weight.delete", 10),
+                Double.parseDouble(System.getProperty("loadtest.tolerance", "0.25")),
+                System.getProperty("loadtest.baseline", "loadtest/baseline.properties"));
+    }
+
+    /**
+     * The settings that shape the workload, stored with the results so a baseline
+     * is only compared against runs of the same workload
+     * @return Setting values keyed as in the baseline file
+     */
+    Map<String, String> workload() {
+        Map<String, String> workload = new LinkedHashMap<>();
+        workload.put("settings.concurrency", String.valueOf(concurrency));
+        workload.put("settings.datasetSize", String.valueOf(datasetSize));
+        workload.put("settings.warmupRequests", String.valueOf(warmupRequests));
+        workload.put("settings.requests", String.valueOf(requests));
+        workload.put("settings.seed", String.valueOf(seed));
+        workload.put("settings.weight.list", String.valueOf(listWeight));
+        workload.put("settings.weight.get", String.valueOf(getWeight));
+        workload.put("settings.weight.create", String.valueOf(createWeight));
+        workload.put("settings.weight.update", String.valueOf(updateWeight));
+        workload.put("settings.weight.delete", String.valueOf(deleteWeight));
+        return workload;
+    }
+
+    int totalWeight() {
+        return listWeight + getWeight + createWeight + updateWeight + deleteWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "concurrency=" + concurrency + ", datasetSize=" + datasetSize
+                + ", warmupRequests=" + warmupRequests + ", requests=" + requests + ", seed=" + seed
+                + ", mix(list/get/create/update/delete)=" + listWeight + "/" + getWeight + "/"
+                + createWeight + "/" + updateWeight + "/" + deleteWeight;
+    }
+}
@@ -0,0 +1,251 @@
+package com.nk.todolist.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.repository.TodoRepository;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Mixed CRUD load test for /api/todos against the embedded H2 database,
+ * with the second-level cache enabled as in production.
+ * Excluded from the normal build, run it with {@code mvn test -Ploadtest}.
+ * Results are written to target/loadtest/latest.properties and compared against
+ * src/test/resources/loadtest/baseline.properties when that was recorded with the same settings.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.jpa.show-sql=false", "spring.jpa.properties.hibernate.format_sql=false"})
+@ActiveProfiles("cache")
+class TodoApiLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoApiLoadTest.class);
+
+    private static final Path REPORT = Path.of("target", "loadtest", "latest.properties");
+
+    enum Operation { LIST, GET, CREATE, UPDATE, DELETE }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .build();
+
+    @Test
+    void mixedCrudWorkload_shouldStayWithinBaseline() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        List<Long> seededIds = seedDataset(settings);
+        log.info("Load test settings: {}", settings);
+
+        // When
+        run(settings, seededIds, settings.warmupRequests(), settings.seed() - 1);
+        Map<String, LatencyStats> results = run(settings, seededIds, settings.requests(), settings.seed());
+
+        // Then
+        results.forEach((operation, stats) -> log.info("{}: {}", operation, stats));
+        LoadTestBaseline.write(settings, results, REPORT);
+        log.info("Results written to {}", REPORT.toAbsolutePath());
+
+        assertEquals(0, results.get("all").errors(), "Requests failed during the load test");
+
+        LoadTestBaseline baseline = LoadTestBaseline.load(settings.baseline());
+        if (baseline.isEmpty()) {
+            log.warn("No baseline found at {}, skipping regression check", settings.baseline());
+            return;
+        }
+        List<String> mismatches = baseline.settingsMismatches(settings);
+        assumeTrue(mismatches.isEmpty(), () -> "Baseline was recorded with a different workload, skipping regression check:\n"
+                + String.join("\n", mismatches));
+        List<String> regressions = baseline.regressions(results, settings.tolerance());
+        assertTrue(regressions.isEmpty(), "Performance regressed past baseline:\n" + String.join("\n", regressions));
+    }
+
+    private List<Long> seedDataset(LoadTestSettings settings) {
+        todoRepository.deleteAll();
+        List<Todo> todos = IntStream.range(0, settings.datasetSize())
+                .mapToObj(i -> new Todo("Seeded todo " + i, i % 3 == 0))
+                .toList();
+        return todoRepository.saveAll(todos).stream().map(Todo::getId).toList();
+    }
+
+    private Map<String, LatencyStats> run(LoadTestSettings settings, List<Long> seededIds, int requests, long seed)
+            throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            List<Future<Samples>> futures = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int worker = 0; worker < settings.concurrency(); worker++) {
+                // Spread the remainder over the first workers so exactly "requests" are sent
+                int share = requests / settings.concurrency() + (worker < requests % settings.concurrency() ? 1 : 0);
+                Random random = new Random(seed * 31 + worker);
+                futures.add(executor.submit(() -> runWorker(settings, seededIds, share, random)));
+            }
+            List<Samples> samples = new ArrayList<>();
+            for (Future<Samples> future : futures) {
+                samples.add(future.get());
+            }
+            return summarize(samples, System.nanoTime() - start);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Samples runWorker(LoadTestSettings settings, List<Long> seededIds, int requests, Random random)
+            throws Exception {
+        Samples samples = new Samples(requests);
+        // Deletes only target todos this worker created, so seeded rows stay available for reads and updates
+        Deque<Long> createdIds = new ArrayDeque<>();
+        for (int i = 0; i < requests; i++) {
+            Operation operation = pick(settings, random);
+            if (operation == Operation.DELETE && createdIds.isEmpty()) {
+                operation = Operation.GET;
+            }
+            long seededId = seededIds.get(random.nextInt(seededIds.size()));
+
+            HttpRequest request = switch (operation) {
+                case LIST -> get("/api/todos");
+                case GET -> get("/api/todos/" + seededId);
+                case CREATE -> send("POST", "/api/todos", new Todo("Load test todo", false));
+                case UPDATE -> send("PUT", "/api/todos/" + seededId, new Todo("Updated todo " + i, random.nextBoolean()));
+                case DELETE -> HttpRequest.newBuilder(uri("/api/todos/" + createdIds.pop())).DELETE().build();
+            };
+
+            long begin = System.nanoTime();
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - begin;
+
+            boolean success = response.statusCode() / 100 == 2;
+            if (success && operation == Operation.CREATE) {
+                createdIds.push(objectMapper.readTree(response.body()).get("id").asLong());
+            }
+            samples.record(operation, latency, success);
+        }
+        return samples;
+    }
+
+    private Operation pick(LoadTestSettings settings, Random random) {
+        int roll = random.nextInt(settings.totalWeight());
+        if ((roll -= settings.listWeight()) < 0) {
+            return Operation.LIST;
+        }
+        if ((roll -= settings.getWeight()) < 0) {
+            return Operation.GET;
+        }
+        if ((roll -= settings.createWeight()) < 0) {
+            return Operation.CREATE;
+        }
+        if (roll - settings.updateWeight() < 0) {
+            return Operation.UPDATE;
+        }
+        return Operation.DELETE;
+    }
+
+    private Map<String, LatencyStats> summarize(List<Samples> samples, long elapsedNanos) {
+        Map<Operation, long[]> latencies = new EnumMap<>(Operation.class);
+        Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+        long[] all = new long[0];
+        long allErrors = 0;
+        for (Samples worker : samples) {
+            for (Operation operation : Operation.values()) {
+                long[] workerLatencies = worker.latencies(operation);
+                latencies.merge(operation, workerLatencies, TodoApiLoadTest::concat);
+                errors.merge(operation, worker.errors[operation.ordinal()], Long::sum);
+                all = concat(all, workerLatencies);
+                allErrors += worker.errors[operation.ordinal()];
+            }
+        }
+
+        Map<String, LatencyStats> results = new LinkedHashMap<>();
+        results.put("all", LatencyStats.of(all, allErrors, elapsedNanos));
+        for (Operation operation : Operation.values()) {
+            results.put(operation.name().toLowerCase(),
+                    LatencyStats.of(latencies.get(operation), errors.get(operation), elapsedNanos));
+        }
+        return results;
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] merged = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, merged, first.length, second.length);
+        return merged;
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET().build();
+    }
+
+    private HttpRequest send(String method, String path, Todo body) throws Exception {
+        return HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                .build();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Latencies recorded by a single worker, kept per operation in primitive arrays
+     */
+    private static class Samples {
+
+        private final long[][] latencies = new long[Operation.values().length][];
+        private final int[] counts = new int[Operation.values().length];
+        private final long[] errors = new long[Operation.values().length];
+
+        Samples(int capacity) {
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new long[capacity];
+            }
+        }
+
+        void record(Operation operation, long latencyNanos, boolean success) {
+            int index = operation.ordinal();
+            latencies[index][counts[index]++] = latencyNanos;
+            if (!success) {
+                errors[index]++;
+            }
+        }
+
+        long[] latencies(Operation operation) {
+            return Arrays.copyOf(latencies[operation.ordinal()], counts[operation.ordinal()]);
+        }
+    }
+}
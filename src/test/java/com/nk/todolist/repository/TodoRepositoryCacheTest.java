@@ -0,0 +1,154 @@
+package com.nk.todolist.repository;
+
+import com.nk.todolist.model.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level and query cache behaviour of TodoRepository. Every repository call
+ * runs outside a transaction, so each one gets a fresh persistence context and
+ * only the second-level cache can save the database round-trip.
+ */
+@SpringBootTest
+@ActiveProfiles("cache")
+class TodoRepositoryCacheTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoRepositoryCacheTest.class);
+
+    private static final int LOOKUPS = 100;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Statistics statistics;
+
+    private Todo todo1;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+        todo1 = todoRepository.save(new Todo("Buy groceries", false));
+        todoRepository.save(new Todo("Finish homework", true));
+
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findById_repeated_shouldBeServedFromSecondLevelCache() {
+        // When
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertTrue(todoRepository.findById(todo1.getId()).isPresent());
+        }
+
+        // Then
+        log.info("findById x{}: {} SQL statements, {} second-level cache hits",
+                LOOKUPS, statistics.getPrepareStatementCount(), statistics.getSecondLevelCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(LOOKUPS - 1, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void loadAllById_shouldOnlyQueryTodosMissingFromSecondLevelCache() {
+        // Given
+        Todo todo3 = todoRepository.save(new Todo("Learn Spring Boot", false));
+        entityManagerFactory.getCache().evictAll();
+        todoRepository.findById(todo1.getId());
+        statistics.clear();
+        List<Long> ids = List.of(todo3.getId(), todo1.getId());
+
+        // When
+        List<Todo> first = todoRepository.loadAllById(ids);
+        long firstStatements = statistics.getPrepareStatementCount();
+        List<Todo> second = todoRepository.loadAllById(ids);
+
+        // Then: todo1 was already cached, todo3 is cached by the first call
+        assertEquals(ids, first.stream().map(Todo::getId).toList());
+        assertEquals(ids, second.stream().map(Todo::getId).toList());
+        assertEquals(1, firstStatements);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(3, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    void findAll_repeated_shouldBeServedFromQueryCache() {
+        // When
+        for (int i = 0; i < LOOKUPS; i++) {
+            assertEquals(2, todoRepository.findAll().size());
+        }
+
+        // Then
+        log.info("findAll x{}: {} SQL statements, {} query cache hits",
+                LOOKUPS, statistics.getPrepareStatementCount(), statistics.getQueryCacheHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(LOOKUPS - 1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void findAll_whenEntitiesEvicted_shouldNotLoadThemOneByOne() {
+        // Given
+        todoRepository.findAll();
+        entityManagerFactory.getCache().evict(Todo.class);
+
+        // When
+        List<Todo> todos = todoRepository.findAll();
+
+        // Then: the cached result carries the rows, instead of one select per missing todo
+        assertEquals(2, todos.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void save_shouldInvalidateCachedFindAll() {
+        // Given
+        todoRepository.findAll();
+
+        // When
+        todoRepository.save(new Todo("Learn Spring Boot", false));
+
+        // Then
+        assertEquals(3, todoRepository.findAll().size());
+    }
+
+    @Test
+    void bulkJpqlUpdate_shouldInvalidateCachedEntitiesAndQueries() {
+        // Given
+        todoRepository.findAll();
+        todoRepository.findById(todo1.getId());
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                entityManager.createQuery("update Todo t set t.completed = true").executeUpdate());
+
+        // Then
+        List<Todo> todos = todoRepository.findAll();
+        assertTrue(todos.stream().allMatch(Todo::isCompleted));
+        assertTrue(todoRepository.findById(todo1.getId()).orElseThrow().isCompleted());
+    }
+}
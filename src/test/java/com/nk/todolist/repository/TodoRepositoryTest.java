@@ -1,12 +1,15 @@
 package com.nk.todolist.repository;
 
 import com.nk.todolist.model.Todo;
+import com.nk.todolist.model.TodoUrgency;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +50,18 @@ class TodoRepositoryTest {
         assertTrue(todos.stream().anyMatch(t -> t.getTitle().equals("Finish homework") && t.isCompleted()));
     }
 
+    @Test
+    void loadAllById_shouldReturnExistingTodosInIdOrder() {
+        // Given
+        entityManager.clear();
+
+        // When
+        List<Todo> todos = todoRepository.loadAllById(List.of(todo2.getId(), 999L, todo1.getId()));
+
+        // Then
+        assertEquals(List.of(todo2.getId(), todo1.getId()), todos.stream().map(Todo::getId).toList());
+    }
+
     @Test
     void findById_whenTodoExists_shouldReturnTodo() {
         // When
@@ -123,4 +138,41 @@ class TodoRepositoryTest {
         Todo remainingTodo = entityManager.find(Todo.class, todo2.getId());
         assertNotNull(remainingTodo);
     }
-}
\ No newline at end of file
+
+    @Test
+    void findPendingUrgencies_shouldReturnOnlyPendingTodos() {
+        // Given
+        todo1.setPriority(2);
+        todo1.setDueDate(LocalDate.of(2025, 7, 1));
+        entityManager.flush();
+
+        // When
+        List<TodoUrgency> urgencies = todoRepository.findPendingUrgencies();
+
+        // Then
+        assertEquals(List.of(new TodoUrgency(todo1.getId(), 2, LocalDate.of(2025, 7, 1))), urgencies);
+    }
+
+    @Test
+    void markOverdue_shouldFlagPendingTodosPastTheirDueDate() {
+        // Given
+        LocalDate today = LocalDate.of(2025, 7, 1);
+        todo1.setDueDate(today.minusDays(1));
+        todo2.setDueDate(today.minusDays(1)); // completed, never overdue
+        Todo dueToday = entityManager.persist(new Todo("Pay rent", false));
+        dueToday.setDueDate(today);
+        entityManager.flush();
+
+        // When
+        List<Long> ids = todoRepository.findNewlyOverdueIds(today, PageRequest.of(0, 10));
+        int marked = todoRepository.markOverdue(ids);
+        entityManager.clear();
+
+        // Then
+        assertEquals(List.of(todo1.getId()), ids);
+        assertEquals(1, marked);
+        assertTrue(entityManager.find(Todo.class, todo1.getId()).isOverdue());
+        assertFalse(entityManager.find(Todo.class, dueToday.getId()).isOverdue());
+        assertTrue(todoRepository.findNewlyOverdueIds(today, PageRequest.of(0, 10)).isEmpty());
+    }
+}
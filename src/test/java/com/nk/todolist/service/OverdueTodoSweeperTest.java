@@ -0,0 +1,66 @@
+package com.nk.todolist.service;
+
+import com.nk.todolist.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueTodoSweeperTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    @Mock
+    private TodoRepository todoRepository;
+
+    @InjectMocks
+    private OverdueTodoSweeper overdueTodoSweeper;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(overdueTodoSweeper, "batchSize", 2);
+    }
+
+    @Test
+    void markOverdue_shouldUpdateInBatchesUntilNoneLeft() {
+        // Given
+        when(todoRepository.findNewlyOverdueIds(TODAY, PageRequest.of(0, 2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(todoRepository.markOverdue(List.of(1L, 2L))).thenReturn(2);
+        when(todoRepository.markOverdue(List.of(3L))).thenReturn(1);
+
+        // When
+        int marked = overdueTodoSweeper.markOverdue(TODAY);
+
+        // Then
+        assertEquals(3, marked);
+        verify(todoRepository, times(2)).findNewlyOverdueIds(TODAY, PageRequest.of(0, 2));
+        verify(todoRepository, times(2)).markOverdue(any());
+    }
+
+    @Test
+    void markOverdue_whenNothingIsDue_shouldNotUpdate() {
+        // Given
+        when(todoRepository.findNewlyOverdueIds(TODAY, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // When
+        int marked = overdueTodoSweeper.markOverdue(TODAY);
+
+        // Then
+        assertEquals(0, marked);
+        verify(todoRepository, never()).markOverdue(any());
+    }
+}
@@ -0,0 +1,28 @@
+package com.nk.todolist.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UpcomingTodoIndexReloaderTest {
+
+    @Mock
+    private UpcomingTodoIndex upcomingTodoIndex;
+
+    @InjectMocks
+    private UpcomingTodoIndexReloader upcomingTodoIndexReloader;
+
+    @Test
+    void reload_shouldReloadUpcomingIndex() {
+        // When
+        upcomingTodoIndexReloader.reload();
+
+        // Then
+        verify(upcomingTodoIndex, times(1)).reload();
+    }
+}
@@ -0,0 +1,151 @@
+package com.nk.todolist.service;
+
+import com.nk.todolist.model.Todo;
+import com.nk.todolist.model.TodoUrgency;
+import com.nk.todolist.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UpcomingTodoIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 7, 1);
+
+    private UpcomingTodoIndex upcomingTodoIndex;
+
+    @BeforeEach
+    void setUp() {
+        upcomingTodoIndex = new UpcomingTodoIndex();
+        upcomingTodoIndex.rebuild(List.of(
+                new TodoUrgency(1L, 1, TODAY.plusDays(1)),
+                new TodoUrgency(2L, 3, null),
+                new TodoUrgency(3L, 3, TODAY.plusDays(5)),
+                new TodoUrgency(4L, 1, TODAY)));
+    }
+
+    @Test
+    void top_shouldOrderByPriorityThenDueDate() {
+        // When
+        List<Long> ids = upcomingTodoIndex.top(10);
+
+        // Then
+        assertEquals(List.of(3L, 2L, 4L, 1L), ids);
+    }
+
+    @Test
+    void top_shouldRespectLimit() {
+        assertEquals(List.of(3L, 2L), upcomingTodoIndex.top(2));
+    }
+
+    @Test
+    void update_shouldRepositionChangedTodo() {
+        // Given
+        Todo todo = new Todo("Buy groceries", false);
+        todo.setId(1L);
+        todo.setPriority(5);
+        todo.setDueDate(TODAY.plusDays(1));
+
+        // When
+        upcomingTodoIndex.update(todo);
+
+        // Then
+        assertEquals(List.of(1L, 3L, 2L, 4L), upcomingTodoIndex.top(10));
+        assertEquals(4, upcomingTodoIndex.size());
+    }
+
+    @Test
+    void update_whenTodoCompleted_shouldRemoveIt() {
+        // Given
+        Todo todo = new Todo("Finish homework", true);
+        todo.setId(3L);
+
+        // When
+        upcomingTodoIndex.update(todo);
+
+        // Then
+        assertEquals(List.of(2L, 4L, 1L), upcomingTodoIndex.top(10));
+    }
+
+    @Test
+    void remove_shouldDropTodo() {
+        // When
+        upcomingTodoIndex.remove(2L);
+        upcomingTodoIndex.remove(999L);
+
+        // Then
+        assertEquals(List.of(3L, 4L, 1L), upcomingTodoIndex.top(10));
+        assertEquals(3, upcomingTodoIndex.size());
+    }
+
+    @Test
+    void reload_shouldKeepChangesCommittedWhileReadingSnapshot() {
+        // Given
+        TodoRepository todoRepository = mock(TodoRepository.class);
+        ReflectionTestUtils.setField(upcomingTodoIndex, "todoRepository", todoRepository);
+        Todo created = new Todo("Pay rent", false);
+        created.setId(5L);
+        created.setPriority(9);
+        when(todoRepository.findPendingUrgencies()).thenAnswer(invocation -> {
+            // Committed after the snapshot query started, so missing from its result
+            upcomingTodoIndex.update(created);
+            return List.of(new TodoUrgency(1L, 1, TODAY.plusDays(1)));
+        });
+
+        // When
+        upcomingTodoIndex.reload();
+
+        // Then
+        assertEquals(List.of(5L, 1L), upcomingTodoIndex.top(10));
+    }
+
+    @Test
+    void top_whileReloadingAndUpdating_shouldAlwaysSeeEveryPendingTodo() throws Exception {
+        // Given
+        List<TodoUrgency> urgencies = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> new TodoUrgency(id, (int) (id % 5), TODAY.plusDays(id % 30)))
+                .toList();
+        TodoRepository todoRepository = mock(TodoRepository.class);
+        when(todoRepository.findPendingUrgencies()).thenReturn(urgencies);
+        ReflectionTestUtils.setField(upcomingTodoIndex, "todoRepository", todoRepository);
+        upcomingTodoIndex.reload();
+        Todo moved = new Todo("Buy groceries", false);
+        moved.setId(1L);
+
+        // When: one thread keeps reloading and repositioning a todo while another reads
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Integer> reads = executor.submit(() -> {
+                int count = 0;
+                while (!done.get()) {
+                    assertEquals(1000, upcomingTodoIndex.top(1000).size());
+                    count++;
+                }
+                return count;
+            });
+            for (int i = 0; i < 200; i++) {
+                upcomingTodoIndex.reload();
+                moved.setPriority(i % 7);
+                upcomingTodoIndex.update(moved);
+            }
+            done.set(true);
+
+            // Then
+            assertTrue(reads.get(10, TimeUnit.SECONDS) > 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.nk.todolist.service.impl;
 
 import com.nk.todolist.model.Todo;
 import com.nk.todolist.repository.TodoRepository;
+import com.nk.todolist.service.UpcomingTodoIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -10,7 +11,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -25,6 +29,9 @@ class TodoServiceImplTest {
     @Mock
     private TodoRepository todoRepository;
 
+    @Mock
+    private UpcomingTodoIndex upcomingTodoIndex;
+
     @InjectMocks
     private TodoServiceImpl todoService;
 
@@ -78,6 +85,98 @@ class TodoServiceImplTest {
         verify(todoRepository, times(1)).save(any(Todo.class));
     }
 
+    @Test
+    void createTodo_shouldCopyUrgencyAndUpdateUpcomingIndex() {
+        // Given
+        Todo newTodo = new Todo("New task", false);
+        newTodo.setPriority(2);
+        newTodo.setDueDate(LocalDate.now().minusDays(1));
+
+        when(todoRepository.save(any(Todo.class))).thenAnswer(invocation -> {
+            Todo saved = invocation.getArgument(0);
+            saved.setId(3L);
+            return saved;
+        });
+
+        // When
+        Todo result = todoService.createTodo(newTodo);
+
+        // Then
+        assertEquals(2, result.getPriority());
+        assertEquals(newTodo.getDueDate(), result.getDueDate());
+        assertTrue(result.isOverdue());
+        verify(upcomingTodoIndex, times(1)).update(result);
+    }
+
+    @Test
+    void createTodo_inTransaction_shouldUpdateUpcomingIndexOnlyAfterCommit() {
+        // Given
+        Todo savedTodo = new Todo("New task", false);
+        savedTodo.setId(3L);
+        when(todoRepository.save(any(Todo.class))).thenReturn(savedTodo);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            todoService.createTodo(new Todo("New task", false));
+
+            // Then
+            verify(upcomingTodoIndex, never()).update(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(upcomingTodoIndex, times(1)).update(savedTodo);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getUpcomingTodos_shouldReturnTodosInIndexOrder() {
+        // Given
+        todo2.setCompleted(false);
+        when(upcomingTodoIndex.top(2)).thenReturn(List.of(2L, 1L));
+        when(todoRepository.loadAllById(List.of(2L, 1L))).thenReturn(todoList);
+
+        // When
+        List<Todo> result = todoService.getUpcomingTodos(2);
+
+        // Then
+        assertEquals(List.of(todo2, todo1), result);
+        verify(upcomingTodoIndex, times(1)).top(2);
+    }
+
+    @Test
+    void getUpcomingTodos_shouldEvictStaleEntriesAndTopUp() {
+        // Given: todo2 was completed and todo 4 deleted without going through the service
+        Todo todo3 = new Todo("Pay rent", false);
+        todo3.setId(3L);
+        when(upcomingTodoIndex.top(3))
+                .thenReturn(List.of(1L, 2L, 4L))
+                .thenReturn(List.of(1L, 3L));
+        when(todoRepository.loadAllById(List.of(1L, 2L, 4L))).thenReturn(todoList);
+        when(todoRepository.loadAllById(List.of(1L, 3L))).thenReturn(List.of(todo1, todo3));
+
+        // When
+        List<Todo> result = todoService.getUpcomingTodos(3);
+
+        // Then
+        assertEquals(List.of(todo1, todo3), result);
+        verify(upcomingTodoIndex, times(1)).remove(2L);
+        verify(upcomingTodoIndex, times(1)).remove(4L);
+        verify(upcomingTodoIndex, times(2)).top(3);
+    }
+
+    @Test
+    void getUpcomingTodos_shouldCapLimit() {
+        // Given
+        when(upcomingTodoIndex.top(TodoServiceImpl.MAX_UPCOMING)).thenReturn(List.of());
+
+        // When
+        List<Todo> result = todoService.getUpcomingTodos(10_000);
+
+        // Then
+        assertTrue(result.isEmpty());
+        verify(todoRepository, never()).loadAllById(any());
+    }
+
     @Test
     void createTodo_withExistingId_shouldCreateNewTodo() {
         // Given
@@ -159,6 +258,7 @@ class TodoServiceImplTest {
         assertTrue(response.getBody().isCompleted());
         verify(todoRepository, times(1)).findById(1L);
         verify(todoRepository, times(1)).save(any(Todo.class));
+        verify(upcomingTodoIndex, times(1)).update(updatedTodo);
     }
 
     @Test
@@ -190,6 +290,7 @@ class TodoServiceImplTest {
         assertEquals(HttpStatus.OK, response.getStatusCode());
         verify(todoRepository, times(1)).findById(1L);
         verify(todoRepository, times(1)).delete(any(Todo.class));
+        verify(upcomingTodoIndex, times(1)).remove(1L);
     }
 
     @Test